@@ -0,0 +1,73 @@
+package sudoku;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An Appendable which writes characters as single ASCII bytes into a ByteBuffer.
+ * Used to render Sudoku's directly into an output buffer without creating intermediate Strings.
+ * @author Aeilko Bos
+ */
+public class ByteBufferAppender implements Appendable {
+	// The buffer which is written to
+	private ByteBuffer buffer;
+
+
+	// Constructor
+	/**
+	 * Creates a new appender which writes to the given buffer, starting at its current position
+	 * @param buffer The buffer to write to.
+	 */
+	public ByteBufferAppender(ByteBuffer buffer){
+		this.buffer = buffer;
+	}
+
+
+	// Queries
+	/**
+	 * @return The buffer which is written to
+	 */
+	public ByteBuffer getBuffer(){
+		return this.buffer;
+	}
+
+
+	// Override's
+	/**
+	 * Writes a single character, characters outside of the ASCII range are written as '?'
+	 * @throws java.nio.BufferOverflowException If the buffer has no space left.
+	 */
+	@Override
+	public Appendable append(char c){
+		this.buffer.put(c < 128 ? (byte) c : (byte) '?');
+		return this;
+	}
+
+	/**
+	 * Writes the characters of csq, or "null" if csq is null
+	 */
+	@Override
+	public Appendable append(CharSequence csq){
+		if(csq == null){
+			csq = "null";
+		}
+		return this.append(csq, 0, csq.length());
+	}
+
+	/**
+	 * Writes the characters of csq from start until end, like the characters of "null" if csq is null
+	 * @throws IndexOutOfBoundsException If start or end are not valid indices of csq.
+	 */
+	@Override
+	public Appendable append(CharSequence csq, int start, int end){
+		if(csq == null){
+			csq = "null";
+		}
+		if(start < 0 || start > end || end > csq.length()){
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + csq.length());
+		}
+		for(int i = start; i < end; i++){
+			this.append(csq.charAt(i));
+		}
+		return this;
+	}
+}
\ No newline at end of file
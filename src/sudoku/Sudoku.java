@@ -1,5 +1,7 @@
 package sudoku;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.TreeMap;
 
 import sudoku.solver.SudokuSolver;
@@ -9,6 +11,13 @@ import sudoku.solver.SudokuSolver;
  * @author Aeilko Bos
  */
 public class Sudoku implements Cloneable {
+	// The number of lines in the grid rendering of a Sudoku
+	public static final int GRID_LINES = 13;
+	// The number of characters per line in the grid rendering, excluding the newline
+	public static final int GRID_WIDTH = 19;
+	// The number of characters in the compact single line rendering, excluding the newline
+	public static final int LINE_LENGTH = 81;
+
 	// An empty sudoku field
 	public static final short[][] emptySudoku = new short[][]{{0,0,0, 0,0,0, 0,0,0},{0,0,0, 0,0,0, 0,0,0},{0,0,0, 0,0,0, 0,0,0},{0,0,0, 0,0,0, 0,0,0},{0,0,0, 0,0,0, 0,0,0},{0,0,0, 0,0,0, 0,0,0},{0,0,0, 0,0,0, 0,0,0},{0,0,0, 0,0,0, 0,0,0},{0,0,0, 0,0,0, 0,0,0}};
 
@@ -36,6 +45,22 @@ public class Sudoku implements Cloneable {
 	public Sudoku(){
 		this(Sudoku.emptySudoku);
 	}
+
+	/**
+	 * Creates a Sudoku from a single line of 81 characters, as written by appendLine()
+	 * @param line The values row by row, using '.' or '0' for an empty field.
+	 * @return The new Sudoku.
+	 * @require line.length() >= Sudoku.LINE_LENGTH
+	 * @require every character is '.' or a digit
+	 */
+	public static Sudoku fromLine(CharSequence line){
+		short[][] values = new short[9][9];
+		for(int i = 0; i < Sudoku.LINE_LENGTH; i++){
+			char c = line.charAt(i);
+			values[i/9][i%9] = (short) (c == '.' ? 0 : c - '0');
+		}
+		return new Sudoku(values);
+	}
 	
 
 
@@ -75,28 +100,115 @@ public class Sudoku implements Cloneable {
 
 
 	
-	// Override's
-	@Override
-	public String toString(){
-		String result = "+-----+-----+-----+\n";
-		for(int i = 0; i < 9; i++){
-			for(int j = 0; j < 9; j++){
-				if(j%3 == 0){
-					result = result + "|" + (this.values[i][j] != 0 ? this.values[i][j] : " ");
-				}
-				else{
-					result = result + " " + (this.values[i][j] != 0 ? this.values[i][j] : " ");
+	// Output
+	/**
+	 * Writes the grid rendering of this Sudoku to the given output, this is the same as toString()
+	 * @param out The output to write to.
+	 * @throws IOException If the output throws an IOException.
+	 */
+	public void appendTo(Appendable out) throws IOException{
+		for(int line = 0; line < Sudoku.GRID_LINES; line++){
+			this.appendGridLine(out, line);
+			out.append('\n');
+		}
+	}
+
+	/**
+	 * Writes a single line of the grid rendering to the given output, without the newline
+	 * @param out The output to write to.
+	 * @param line The line which is written, line 0 is the top border.
+	 * @throws IOException If the output throws an IOException.
+	 * @require line >= 0 && line < Sudoku.GRID_LINES
+	 */
+	public void appendGridLine(Appendable out, int line) throws IOException{
+		if(line%4 == 0){
+			// Every fourth line is a border between blocks
+			for(int i = 0; i < 3; i++){
+				out.append('+');
+				for(int j = 0; j < 5; j++){
+					out.append('-');
 				}
-				
 			}
-			result = result + "|\n";
-			
-			if((i+1)%3 == 0){
-				result = result + "+-----+-----+-----+\n";
+			out.append('+');
+		}
+		else{
+			int row = line - line/4 - 1;
+			for(int col = 0; col < 9; col++){
+				out.append(col%3 == 0 ? '|' : ' ');
+				out.append(Sudoku.valToChar(this.values[row][col], ' '));
+			}
+			out.append('|');
+		}
+	}
+
+	/**
+	 * Writes this Sudoku as a single line of 81 characters to the given output, row by row, using '.' for empty fields.
+	 * No newline is written.
+	 * @param out The output to write to.
+	 * @throws IOException If the output throws an IOException.
+	 */
+	public void appendLine(Appendable out) throws IOException{
+		for(int row = 0; row < 9; row++){
+			for(int col = 0; col < 9; col++){
+				out.append(Sudoku.valToChar(this.values[row][col], '.'));
 			}
 		}
-		
-		return result;
+	}
+
+	/**
+	 * Writes the grid rendering of this Sudoku as ASCII into the given buffer
+	 * @param buffer The buffer to write to, needs at least GRID_LINES*(GRID_WIDTH+1) bytes remaining.
+	 * @throws java.nio.BufferOverflowException If the buffer does not have enough space left.
+	 */
+	public void writeTo(ByteBuffer buffer){
+		try {
+			this.appendTo(new ByteBufferAppender(buffer));
+		}
+		catch (IOException e) {
+			// A ByteBufferAppender never throws an IOException
+		}
+	}
+
+	/**
+	 * Writes this Sudoku as a single line of 81 ASCII characters into the given buffer, see appendLine()
+	 * @param buffer The buffer to write to, needs at least LINE_LENGTH bytes remaining.
+	 * @throws java.nio.BufferOverflowException If the buffer does not have enough space left.
+	 */
+	public void writeLine(ByteBuffer buffer){
+		for(int row = 0; row < 9; row++){
+			for(int col = 0; col < 9; col++){
+				buffer.put((byte) Sudoku.valToChar(this.values[row][col], '.'));
+			}
+		}
+	}
+
+
+
+	// Helper methods
+	/**
+	 * Translates a field value to the character which represents it
+	 * @param val The value of the field
+	 * @param empty The character which is used for an empty field
+	 * @return The digit of the value, or empty if the value is 0.
+	 * @require val >= 0 && val <= 9
+	 */
+	private static char valToChar(short val, char empty){
+		return val != 0 ? (char) ('0' + val) : empty;
+	}
+
+
+
+	// Override's
+	@Override
+	public String toString(){
+		StringBuilder result = new StringBuilder(Sudoku.GRID_LINES*(Sudoku.GRID_WIDTH+1));
+		try {
+			this.appendTo(result);
+		}
+		catch (IOException e) {
+			// A StringBuilder never throws an IOException
+		}
+		return result.toString();
 	}
 	
 	@Override
@@ -0,0 +1,117 @@
+package sudoku.solver;
+
+import sudoku.Coordinate;
+
+/**
+ * A Killer Sudoku cage, a unit of which the values have to add up to a given sum.
+ * Values are represented as bitmasks in which bit v is set when value v is included.
+ * @author Aeilko Bos
+ */
+public class Cage extends Unit {
+	// The highest possible sum of a cage, 1+2+...+9
+	public static final int MAX_SUM = 45;
+
+	// Every combination of distinct values, as bitmask, with a given amount of values and sum.
+	// The table uses this structure: COMBINATIONS[size][sum]
+	private static final int[][][] COMBINATIONS = Cage.createCombinations();
+
+	// The sum the values in this cage have to add up to
+	private int sum;
+
+
+	// Constructor
+	/**
+	 * Creates a new cage with the given sum
+	 * @param sum The sum of the values in this cage.
+	 * @param fields The fields in this cage, using Coordinate(row, col).
+	 * @require fields.length >= 1 && fields.length <= 9
+	 * @require sum >= 1 && sum <= Cage.MAX_SUM
+	 */
+	public Cage(int sum, Coordinate... fields){
+		super(fields);
+		this.sum = sum;
+	}
+
+
+	// Queries
+	/**
+	 * @return The sum the values in this cage have to add up to
+	 */
+	public int getSum(){
+		return this.sum;
+	}
+
+	/**
+	 * Calculates which values are still possible in the empty fields of this cage.
+	 * @param placedMask The values which are already placed in this cage, as bitmask.
+	 * @param placedSum The sum of the values which are already placed in this cage.
+	 * @param emptyCount The amount of empty fields in this cage.
+	 * @param candidates All values which are still possible in any of the empty fields, as bitmask.
+	 * @return The values which are part of at least one combination that completes this cage, as bitmask.
+	 */
+	public int possibleValues(int placedMask, int placedSum, int emptyCount, int candidates){
+		int remaining = this.sum - placedSum;
+		if(remaining < 0 || remaining > Cage.MAX_SUM){
+			return 0;
+		}
+
+		int result = 0;
+		for(int combination: Cage.COMBINATIONS[emptyCount][remaining]){
+			// The combination may not reuse a placed value, and every value in it has to be possible somewhere.
+			if((combination & placedMask) == 0 && (combination & ~candidates) == 0){
+				result |= combination;
+			}
+		}
+		return result;
+	}
+
+
+
+	// Helper methods
+	/**
+	 * Generates the table of all combinations of distinct values per amount of values and sum.
+	 */
+	private static int[][][] createCombinations(){
+		// Count the combinations first so every list can be created with the right size
+		int[][] counts = new int[10][Cage.MAX_SUM+1];
+		for(int mask = 0; mask < (1 << 10); mask += 2){
+			counts[Integer.bitCount(mask)][Cage.maskSum(mask)]++;
+		}
+
+		int[][][] result = new int[10][Cage.MAX_SUM+1][];
+		for(int size = 0; size <= 9; size++){
+			for(int sum = 0; sum <= Cage.MAX_SUM; sum++){
+				result[size][sum] = new int[counts[size][sum]];
+			}
+		}
+
+		// Bit 0 is never used, so only even masks are valid.
+		int[][] filled = new int[10][Cage.MAX_SUM+1];
+		for(int mask = 0; mask < (1 << 10); mask += 2){
+			int size = Integer.bitCount(mask);
+			int sum = Cage.maskSum(mask);
+			result[size][sum][filled[size][sum]++] = mask;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the sum of the values in the given bitmask
+	 */
+	private static int maskSum(int mask){
+		int result = 0;
+		for(int val = 1; val <= 9; val++){
+			if((mask & (1 << val)) != 0){
+				result += val;
+			}
+		}
+		return result;
+	}
+
+
+	// Override's
+	@Override
+	public String toString(){
+		return this.sum + ": " + super.toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,176 @@
+package sudoku.solver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import sudoku.Sudoku;
+
+/**
+ * Measures how fast a TechniquePipeline solves a set of Sudoku's, so the best pipeline for a workload can be chosen.
+ * @author Aeilko Bos
+ */
+public class PipelineBenchmark {
+	// The pipeline which was measured
+	private TechniquePipeline pipeline;
+	// The amount of Sudoku's which were solved, and attempted, per iteration
+	private int solved;
+	private int puzzles;
+	// The total time of all measured iterations, in nanoseconds
+	private long time;
+	// The amount of measured iterations
+	private int iterations;
+
+
+
+	// Constructor
+	/**
+	 * Creates the result of a benchmark
+	 */
+	private PipelineBenchmark(TechniquePipeline pipeline, int solved, int puzzles, long time, int iterations){
+		this.pipeline = pipeline;
+		this.solved = solved;
+		this.puzzles = puzzles;
+		this.time = time;
+		this.iterations = iterations;
+	}
+
+
+
+	// Commands
+	/**
+	 * Solves every Sudoku of the corpus with the given pipeline, a number of times.
+	 * The corpus is solved once before measuring, so the JIT compiler has warmed up.
+	 * @param pipeline The pipeline which is measured.
+	 * @param corpus The Sudoku's which are solved.
+	 * @param variant The variant of the Sudoku's.
+	 * @param iterations The amount of times the corpus is solved while measuring.
+	 * @return The result of the benchmark.
+	 * @require iterations >= 1
+	 */
+	public static PipelineBenchmark run(TechniquePipeline pipeline, List<Sudoku> corpus, Variant variant, int iterations){
+		PipelineBenchmark.solveAll(pipeline, corpus, variant);
+
+		int solved = 0;
+		long start = System.nanoTime();
+		for(int i = 0; i < iterations; i++){
+			solved = PipelineBenchmark.solveAll(pipeline, corpus, variant);
+		}
+		long time = System.nanoTime() - start;
+
+		return new PipelineBenchmark(pipeline, solved, corpus.size(), time, iterations);
+	}
+
+	/**
+	 * Returns the best result, which is the fastest of the results that solved the most Sudoku's
+	 * @param results The results to choose from.
+	 * @return The best result, or null if there are no results.
+	 */
+	public static PipelineBenchmark best(List<PipelineBenchmark> results){
+		PipelineBenchmark result = null;
+		for(PipelineBenchmark b: results){
+			if(result == null || b.solved > result.solved || (b.solved == result.solved && b.getPuzzlesPerSecond() > result.getPuzzlesPerSecond())){
+				result = b;
+			}
+		}
+		return result;
+	}
+
+
+
+	// Queries
+	/**
+	 * @return The pipeline which was measured
+	 */
+	public TechniquePipeline getPipeline(){
+		return this.pipeline;
+	}
+
+	/**
+	 * @return The amount of Sudoku's in the corpus which were solved
+	 */
+	public int getSolved(){
+		return this.solved;
+	}
+
+	/**
+	 * @return The amount of Sudoku's in the corpus
+	 */
+	public int getPuzzles(){
+		return this.puzzles;
+	}
+
+	/**
+	 * @return The average time to solve the whole corpus once, in seconds
+	 */
+	public double getTimeNeeded(){
+		return this.time/((double) 1000000000)/this.iterations;
+	}
+
+	/**
+	 * @return The amount of Sudoku's which were attempted per second
+	 */
+	public double getPuzzlesPerSecond(){
+		return this.puzzles/this.getTimeNeeded();
+	}
+
+
+
+	// Helper methods
+	/**
+	 * Solves all Sudoku's in the corpus
+	 * @return The amount of Sudoku's which were solved.
+	 */
+	private static int solveAll(TechniquePipeline pipeline, List<Sudoku> corpus, Variant variant){
+		int result = 0;
+		for(Sudoku s: corpus){
+			if(new SudokuSolver(s, variant).solve(pipeline)){
+				result++;
+			}
+		}
+		return result;
+	}
+
+
+
+	// Override's
+	@Override
+	public String toString(){
+		return this.pipeline.getName() + ": " + this.solved + "/" + this.puzzles + " opgelost, " + this.getTimeNeeded() + " seconden, " + this.getPuzzlesPerSecond() + " sudoku's per seconde";
+	}
+
+
+
+	// Main method, compares the ready-made pipelines
+	// Usage: PipelineBenchmark [file with one Sudoku of 81 characters per line] [iterations]
+	public static void main(String[] args) throws IOException{
+		List<Sudoku> corpus = new ArrayList<>();
+		if(args.length > 0){
+			for(String line: Files.readAllLines(Paths.get(args[0]))){
+				line = line.trim();
+				if(line.length() >= Sudoku.LINE_LENGTH && !line.startsWith("#")){
+					corpus.add(Sudoku.fromLine(line));
+				}
+			}
+		}
+		else{
+			// The example sudoku's of SudokuSolver, from simple to a 6star puzzle from a book
+			corpus.add(Sudoku.fromLine("000803090700002000001400200050020800100605000008000907003004010560709003000000700"));
+			corpus.add(Sudoku.fromLine("000000001000506420040800730809000010000000000007605308700000000005300900006090043"));
+			corpus.add(Sudoku.fromLine("000000000504708109000540007009000000800204750000057008007100900036900000000000300"));
+			corpus.add(Sudoku.fromLine("040800000000150000500097000000070803000408600708930000900000201070000064000340090"));
+			corpus.add(Sudoku.fromLine("007400010000086020380002060000059040140000086070640000020800051050270000010005400"));
+		}
+		int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+		List<PipelineBenchmark> results = new ArrayList<>();
+		for(TechniquePipeline p: new TechniquePipeline[]{TechniquePipeline.FASTEST, TechniquePipeline.HUMAN_LIKE, TechniquePipeline.RATING}){
+			PipelineBenchmark b = PipelineBenchmark.run(p, corpus, Variant.STANDARD, iterations);
+			results.add(b);
+			System.out.println(b);
+		}
+		System.out.println("Beste: " + PipelineBenchmark.best(results).getPipeline().getName());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package sudoku.solver;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import sudoku.Coordinate;
+
+/**
+ * A part of the search tree of a Sudoku, which can be split over the threads of a ForkJoinPool.
+ * Every task fills in what it can with logic, and then guesses every possibility of the field with the fewest possibilities.
+ * Only the top levels of the tree are split into separate tasks, deeper levels are searched sequentially.
+ * @author Aeilko Bos
+ */
+class SearchTask extends RecursiveTask<SudokuSolver> {
+	private static final long serialVersionUID = 1L;
+
+	// The amount of tasks we want per thread, so threads which finish early can steal work from the others.
+	private static final int TASKS_PER_THREAD = 4;
+
+	// The state of the Sudoku this task starts from
+	private SudokuSolver state;
+	// The solution, shared by all tasks so they can stop once any task has found it
+	private AtomicReference<SudokuSolver> found;
+	// The depth of this task in the search tree
+	private int depth;
+	// The depth from which the search is no longer split into separate tasks
+	private int splitDepth;
+
+
+	// Constructor
+	/**
+	 * Creates a new search task
+	 * @param state The state of the Sudoku to search from, this object is changed by the task.
+	 * @param found The shared solution, which is set by the task which finds it.
+	 * @param depth The depth of this task in the search tree.
+	 * @param splitDepth The depth from which the search is no longer split, see splitDepth().
+	 */
+	SearchTask(SudokuSolver state, AtomicReference<SudokuSolver> found, int depth, int splitDepth){
+		this.state = state;
+		this.found = found;
+		this.depth = depth;
+		this.splitDepth = splitDepth;
+	}
+
+
+	// Queries
+	/**
+	 * Calculates the depth until which the search is split, so there are enough tasks for the given amount of threads.
+	 * Every guess has at least 2 possibilities, so every level at least doubles the amount of tasks.
+	 * @param parallelism The amount of threads which are used.
+	 * @return The depth from which the search is no longer split.
+	 */
+	static int splitDepth(int parallelism){
+		int depth = 0;
+		while((1 << depth) < parallelism*SearchTask.TASKS_PER_THREAD){
+			depth++;
+		}
+		return depth;
+	}
+
+
+	// Override's
+	@Override
+	protected SudokuSolver compute(){
+		if(this.depth >= this.splitDepth){
+			return SearchTask.search(this.state, this.found);
+		}
+
+		// Stop when another task has already found the solution
+		if(this.found.get() != null){
+			return null;
+		}
+
+		this.state.propagate();
+		if(this.state.isContradiction()){
+			return null;
+		}
+		if(this.state.isSolved()){
+			this.found.compareAndSet(null, this.state);
+			return this.found.get();
+		}
+
+		// Create a task for every possibility of the most constrained field
+		Coordinate field = this.state.mostConstrainedField();
+		ArrayList<SearchTask> tasks = new ArrayList<>();
+		for(int val: this.state.getPossible(field)){
+			tasks.add(new SearchTask(this.state.branch(field, val), this.found, this.depth+1, this.splitDepth));
+		}
+		ForkJoinTask.invokeAll(tasks);
+
+		return this.found.get();
+	}
+
+
+
+	// Helper methods
+	/**
+	 * Searches the solution from the given state in the current thread, without splitting it into tasks
+	 * @param state The state of the Sudoku to search from.
+	 * @param found The shared solution, which is set when the solution is found.
+	 * @return The solution, or null if there is no solution from this state or another task found it first.
+	 */
+	static SudokuSolver search(SudokuSolver state, AtomicReference<SudokuSolver> found){
+		if(found.get() != null){
+			return null;
+		}
+
+		state.propagate();
+		if(state.isContradiction()){
+			return null;
+		}
+		if(state.isSolved()){
+			found.compareAndSet(null, state);
+			return found.get();
+		}
+
+		Coordinate field = state.mostConstrainedField();
+		for(int val: state.getPossible(field)){
+			SudokuSolver result = SearchTask.search(state.branch(field, val), found);
+			if(result != null){
+				return result;
+			}
+		}
+		return null;
+	}
+}
\ No newline at end of file
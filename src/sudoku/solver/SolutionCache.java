@@ -0,0 +1,408 @@
+package sudoku.solver;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+import sudoku.Sudoku;
+
+/**
+ * A cache of solved Sudoku's which can be shared by many threads, placed in front of SudokuSolver.solve().
+ * Entries are stored in a fixed size buffer, which can be allocated off-heap, so the memory use is bounded.
+ * The buffer is divided in buckets of a few slots, the givens and the units of a Sudoku decide its bucket.
+ * Sudoku's of different variants, like Killer Sudoku's with different cages, are stored as different entries.
+ * When a bucket is full the least recently used entry in that bucket is evicted.
+ * Every bucket belongs to one of a number of stripes, reads are done optimistically without locking and writes lock a single stripe.
+ * When the same Sudoku is requested by several threads at once it is solved only once, the other threads wait for that result.
+ * @author Aeilko Bos
+ */
+public class SolutionCache {
+	// The amount of slots per bucket
+	private static final int WAYS = 8;
+	// The maximum amount of stripes
+	private static final int MAX_STRIPES = 64;
+
+	// The amount of bytes needed to store the 81 values of a Sudoku, using 4 bits per value
+	private static final int PACKED_SIZE = 41;
+
+	// The layout of a slot in the buffer
+	private static final int HASH_OFFSET = 0;
+	private static final int LAYOUT_OFFSET = 8;
+	private static final int STAMP_OFFSET = 16;
+	private static final int SOLVED_OFFSET = 20;
+	private static final int GIVENS_OFFSET = 21;
+	private static final int SOLUTION_OFFSET = SolutionCache.GIVENS_OFFSET + SolutionCache.PACKED_SIZE;
+	public static final int SLOT_SIZE = 104;
+
+	// The buffer which contains all slots, a slot with hash 0 is empty.
+	private ByteBuffer table;
+	// The amount of buckets, always a power of 2
+	private int buckets;
+	// The locks of the stripes, the amount of stripes is a power of 2
+	private StampedLock[] stripes;
+	// The variant which is used by solve(Sudoku)
+	private Variant variant;
+
+	// The Sudoku's which are being solved right now
+	private ConcurrentHashMap<Givens, CompletableFuture<Sudoku>> inFlight;
+
+	// Statistics
+	private LongAdder hits;
+	private LongAdder misses;
+	private LongAdder evictions;
+	private LongAdder merged;
+
+
+
+	// Constructor
+	/**
+	 * Creates a new cache which uses at most the given amount of memory for its entries
+	 * @param maxBytes The maximum size of the buffer which contains the entries.
+	 * @param offHeap Whether or not the buffer is allocated outside of the Java heap.
+	 * @param v The variant which is used by solve(Sudoku), solve(Sudoku, Variant) can use any variant.
+	 * @require maxBytes >= SolutionCache.SLOT_SIZE*SolutionCache.WAYS
+	 */
+	public SolutionCache(long maxBytes, boolean offHeap, Variant v){
+		// A single buffer can not be larger than Integer.MAX_VALUE, and the amount of buckets has to be a power of 2.
+		long maxBuckets = Math.min(maxBytes, Integer.MAX_VALUE)/(SolutionCache.SLOT_SIZE*SolutionCache.WAYS);
+		this.buckets = Integer.highestOneBit((int) Math.max(1, maxBuckets));
+
+		int size = this.buckets*SolutionCache.WAYS*SolutionCache.SLOT_SIZE;
+		this.table = offHeap ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+
+		this.stripes = new StampedLock[Math.min(SolutionCache.MAX_STRIPES, this.buckets)];
+		for(int i = 0; i < this.stripes.length; i++){
+			this.stripes[i] = new StampedLock();
+		}
+		this.variant = v;
+
+		this.inFlight = new ConcurrentHashMap<>();
+
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.evictions = new LongAdder();
+		this.merged = new LongAdder();
+	}
+
+	/**
+	 * Creates a new cache on the Java heap for normal Sudoku's
+	 * @param maxBytes The maximum size of the buffer which contains the entries.
+	 */
+	public SolutionCache(long maxBytes){
+		this(maxBytes, false, Variant.STANDARD);
+	}
+
+
+
+	// Commands
+	/**
+	 * Returns the solution of the given Sudoku of the variant of this cache, see solve(Sudoku, Variant)
+	 * @param givens The Sudoku to solve.
+	 * @return A new Sudoku containing the solution, or null if the solver could not solve it.
+	 */
+	public Sudoku solve(Sudoku givens){
+		return this.solve(givens, this.variant);
+	}
+
+	/**
+	 * Returns the solution of the given Sudoku, from the cache if possible, otherwise it is solved with SudokuSolver.solve() and stored.
+	 * Sudoku's which the solver could not solve are also stored, so they are not attempted again.
+	 * The units of the variant are part of the key, so for example Killer Sudoku's without givens but with different cages are different entries.
+	 * @param givens The Sudoku to solve.
+	 * @param v The variant of the Sudoku, like the cages of a Killer Sudoku.
+	 * @return A new Sudoku containing the solution, or null if the solver could not solve it.
+	 */
+	public Sudoku solve(Sudoku givens, Variant v){
+		byte[] packed = SolutionCache.pack(givens);
+		long layout = v.getFingerprint();
+		long hash = SolutionCache.hash(packed, layout);
+
+		byte[] solution = new byte[SolutionCache.PACKED_SIZE];
+		int found = this.lookup(hash, layout, packed, solution);
+		if(found != 0){
+			this.hits.increment();
+			return found > 0 ? SolutionCache.unpack(solution) : null;
+		}
+
+		// Join the solve of another thread if it is already solving this Sudoku
+		Givens key = new Givens(packed, layout);
+		CompletableFuture<Sudoku> future = new CompletableFuture<>();
+		CompletableFuture<Sudoku> existing = this.inFlight.putIfAbsent(key, future);
+		if(existing != null){
+			this.merged.increment();
+			Sudoku result = existing.join();
+			return result != null ? (Sudoku) result.clone() : null;
+		}
+
+		try {
+			Sudoku result;
+			// Another thread could have stored it between the lookup and registering this solve
+			found = this.lookup(hash, layout, packed, solution);
+			if(found != 0){
+				this.hits.increment();
+				result = found > 0 ? SolutionCache.unpack(solution) : null;
+			}
+			else{
+				this.misses.increment();
+				SudokuSolver solver = new SudokuSolver(givens, v);
+				result = solver.solve() ? solver.getSudoku() : null;
+				this.store(hash, layout, packed, result != null ? SolutionCache.pack(result) : null);
+			}
+
+			future.complete(result);
+			return result != null ? (Sudoku) result.clone() : null;
+		}
+		catch (Throwable e) {
+			// Also on an Error, otherwise the merged requests would wait forever
+			future.completeExceptionally(e);
+			throw e;
+		}
+		finally {
+			this.inFlight.remove(key, future);
+		}
+	}
+
+	/**
+	 * Removes all entries from the cache, the statistics are not reset
+	 */
+	public void clear(){
+		long[] stamps = new long[this.stripes.length];
+		for(int i = 0; i < this.stripes.length; i++){
+			stamps[i] = this.stripes[i].writeLock();
+		}
+		for(int i = 0; i < this.table.capacity(); i += SolutionCache.SLOT_SIZE){
+			this.table.putLong(i + SolutionCache.HASH_OFFSET, 0);
+		}
+		for(int i = 0; i < this.stripes.length; i++){
+			this.stripes[i].unlockWrite(stamps[i]);
+		}
+	}
+
+
+
+	// Queries
+	/**
+	 * @return The amount of Sudoku's which can be stored
+	 */
+	public int getCapacity(){
+		return this.buckets*SolutionCache.WAYS;
+	}
+
+	/**
+	 * @return The amount of requests which were answered from the cache
+	 */
+	public long getHits(){
+		return this.hits.sum();
+	}
+
+	/**
+	 * @return The amount of requests which were not in the cache and were solved, excluding the ones which were merged with another request
+	 */
+	public long getMisses(){
+		return this.misses.sum();
+	}
+
+	/**
+	 * @return The amount of entries which were removed to make room for a new entry
+	 */
+	public long getEvictions(){
+		return this.evictions.sum();
+	}
+
+	/**
+	 * @return The amount of requests which waited for the solve of another request instead of solving it themselves
+	 */
+	public long getMerged(){
+		return this.merged.sum();
+	}
+
+
+
+	// Helper methods
+	/**
+	 * Searches the given Sudoku in the table
+	 * @param hash The hash of the givens and layout
+	 * @param layout The fingerprint of the units of the variant
+	 * @param packed The packed givens
+	 * @param solution The array in which the packed solution is copied if it is found
+	 * @return 1 if the solution is found, -1 if the Sudoku is stored as not solvable, 0 if it is not in the table.
+	 */
+	private int lookup(long hash, long layout, byte[] packed, byte[] solution){
+		int bucket = (int) hash & (this.buckets-1);
+		StampedLock lock = this.stripes[bucket & (this.stripes.length-1)];
+
+		// First try without locking, if a write happened in the meantime we try again with a read lock.
+		long stamp = lock.tryOptimisticRead();
+		int result = this.readBucket(bucket, hash, layout, packed, solution);
+		if(!lock.validate(stamp)){
+			stamp = lock.readLock();
+			try {
+				result = this.readBucket(bucket, hash, layout, packed, solution);
+			}
+			finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Reads the slots of a bucket, see lookup()
+	 */
+	private int readBucket(int bucket, long hash, long layout, byte[] packed, byte[] solution){
+		int start = bucket*SolutionCache.WAYS*SolutionCache.SLOT_SIZE;
+		for(int i = 0; i < SolutionCache.WAYS; i++){
+			int slot = start + i*SolutionCache.SLOT_SIZE;
+			if(this.table.getLong(slot + SolutionCache.HASH_OFFSET) == hash && this.matches(slot, layout, packed)){
+				for(int j = 0; j < SolutionCache.PACKED_SIZE; j++){
+					solution[j] = this.table.get(slot + SolutionCache.SOLUTION_OFFSET + j);
+				}
+				// Mark the slot as recently used, but only once per stamp tick so readers of a popular entry do not all write to it.
+				// A lost update only makes the eviction slightly less accurate.
+				int now = SolutionCache.now();
+				if(this.table.getInt(slot + SolutionCache.STAMP_OFFSET) != now){
+					this.table.putInt(slot + SolutionCache.STAMP_OFFSET, now);
+				}
+				return this.table.get(slot + SolutionCache.SOLVED_OFFSET) != 0 ? 1 : -1;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Stores a Sudoku in the table, replacing the least recently used entry of its bucket if the bucket is full
+	 * @param hash The hash of the givens and layout
+	 * @param layout The fingerprint of the units of the variant
+	 * @param packed The packed givens
+	 * @param solution The packed solution, or null if the Sudoku could not be solved
+	 */
+	private void store(long hash, long layout, byte[] packed, byte[] solution){
+		int bucket = (int) hash & (this.buckets-1);
+		StampedLock lock = this.stripes[bucket & (this.stripes.length-1)];
+
+		long stamp = lock.writeLock();
+		try {
+			int start = bucket*SolutionCache.WAYS*SolutionCache.SLOT_SIZE;
+			int target = -1;
+			int oldest = -1;
+			for(int i = 0; i < SolutionCache.WAYS && target == -1; i++){
+				int slot = start + i*SolutionCache.SLOT_SIZE;
+				long slotHash = this.table.getLong(slot + SolutionCache.HASH_OFFSET);
+				if(slotHash == 0 || (slotHash == hash && this.matches(slot, layout, packed))){
+					target = slot;
+				}
+				else if(oldest == -1 || this.table.getInt(slot + SolutionCache.STAMP_OFFSET) - this.table.getInt(oldest + SolutionCache.STAMP_OFFSET) < 0){
+					oldest = slot;
+				}
+			}
+			if(target == -1){
+				target = oldest;
+				this.evictions.increment();
+			}
+
+			this.table.putLong(target + SolutionCache.HASH_OFFSET, hash);
+			this.table.putLong(target + SolutionCache.LAYOUT_OFFSET, layout);
+			this.table.putInt(target + SolutionCache.STAMP_OFFSET, SolutionCache.now());
+			this.table.put(target + SolutionCache.SOLVED_OFFSET, (byte) (solution != null ? 1 : 0));
+			for(int j = 0; j < SolutionCache.PACKED_SIZE; j++){
+				this.table.put(target + SolutionCache.GIVENS_OFFSET + j, packed[j]);
+				this.table.put(target + SolutionCache.SOLUTION_OFFSET + j, solution != null ? solution[j] : 0);
+			}
+		}
+		finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Checks whether the layout and givens stored in a slot are the same as the given layout and packed givens
+	 */
+	private boolean matches(int slot, long layout, byte[] packed){
+		if(this.table.getLong(slot + SolutionCache.LAYOUT_OFFSET) != layout){
+			return false;
+		}
+		for(int j = 0; j < SolutionCache.PACKED_SIZE; j++){
+			if(this.table.get(slot + SolutionCache.GIVENS_OFFSET + j) != packed[j]){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the current time in milliseconds (approximately), used to find the least recently used entry.
+	 * Stamps are compared by their difference, so it does not matter when the value wraps around.
+	 */
+	private static int now(){
+		return (int) (System.nanoTime() >>> 20);
+	}
+
+	/**
+	 * Packs the values of a Sudoku in 41 bytes, row by row, using 4 bits per value
+	 */
+	private static byte[] pack(Sudoku s){
+		byte[] result = new byte[SolutionCache.PACKED_SIZE];
+		for(short row = 0; row < 9; row++){
+			for(short col = 0; col < 9; col++){
+				int i = row*9 + col;
+				result[i/2] |= s.getVal(row, col) << (4*(i%2));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a Sudoku from values which are packed by pack()
+	 */
+	private static Sudoku unpack(byte[] packed){
+		short[][] values = new short[9][9];
+		for(int i = 0; i < 81; i++){
+			values[i/9][i%9] = (short) ((packed[i/2] >> (4*(i%2))) & 0xF);
+		}
+		return new Sudoku(values);
+	}
+
+	/**
+	 * Calculates a 64 bit hash of packed givens and the fingerprint of the units, which is never 0 since 0 marks an empty slot
+	 */
+	private static long hash(byte[] packed, long layout){
+		long h = 0xcbf29ce484222325L ^ layout;
+		for(byte b: packed){
+			h ^= b & 0xFF;
+			h *= 0x100000001b3L;
+		}
+		// Mix the bits, since the lowest bits are used to choose the bucket
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		return h != 0 ? h : 1;
+	}
+
+
+
+	/**
+	 * Packed givens and the fingerprint of the units, which can be used as key of a map
+	 */
+	private static class Givens {
+		private byte[] packed;
+		private long layout;
+
+		private Givens(byte[] packed, long layout){
+			this.packed = packed;
+			this.layout = layout;
+		}
+
+		@Override
+		public boolean equals(Object o){
+			return o instanceof Givens && this.layout == ((Givens) o).layout && Arrays.equals(this.packed, ((Givens) o).packed);
+		}
+
+		@Override
+		public int hashCode(){
+			return 31*Arrays.hashCode(this.packed) + Long.hashCode(this.layout);
+		}
+	}
+}
\ No newline at end of file
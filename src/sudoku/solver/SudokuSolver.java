@@ -1,13 +1,18 @@
 package sudoku.solver;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 
 import java.util.function.Function;
 
+import sudoku.ByteBufferAppender;
 import sudoku.Sudoku;
 import sudoku.Coordinate;
 
@@ -22,6 +27,10 @@ public class SudokuSolver {
 	private Sudoku startSudoku;
 	// Wheter or not the Sudoku is solved
 	private boolean solved;
+	// The units which define the rules of the Sudoku
+	private Variant variant;
+	// The hardest technique which made progress during the last solve, or null
+	private Technique hardest;
 	
 	// Possibilities per field
 	// fieldPossible uses the Coordinate(row, col)
@@ -35,13 +44,15 @@ public class SudokuSolver {
 	
 	// Constructor
 	/**
-	 * Creates a new SudokuSolves based on a Sudoku object
+	 * Creates a new SudokuSolver for a Sudoku variant, like Sudoku-X, jigsaw or Killer
 	 * @param s The Sudoku to be solved.
+	 * @param v The variant which defines the units of the Sudoku.
 	 */
-	public SudokuSolver(Sudoku s){
+	public SudokuSolver(Sudoku s, Variant v){
 		this.sudoku = (Sudoku) s.clone();
 		this.startSudoku = s;
 		this.solved = false;
+		this.variant = v;
 		
 		this.fieldPossible = new TreeMap<>();
 		
@@ -50,6 +61,14 @@ public class SudokuSolver {
 		
 		this.checkSolved();
 	}
+
+	/**
+	 * Creates a new SudokuSolves based on a Sudoku object
+	 * @param s The Sudoku to be solved.
+	 */
+	public SudokuSolver(Sudoku s){
+		this(s, Variant.STANDARD);
+	}
 	
 	/**
 	 * Creates a new SudokuSolver based on an double array representation of the Sudoku ([col][row])
@@ -61,47 +80,124 @@ public class SudokuSolver {
 	public SudokuSolver(short[][] s){
 		this(new Sudoku(s));
 	}
+
+	/**
+	 * Creates a copy of the given solver, including the current possibilities, so it can be changed independently
+	 * @param other The solver which is copied.
+	 */
+	private SudokuSolver(SudokuSolver other){
+		this.sudoku = (Sudoku) other.sudoku.clone();
+		this.startSudoku = other.startSudoku;
+		this.solved = other.solved;
+		this.variant = other.variant;
+
+		this.fieldPossible = new TreeMap<>();
+		for(Coordinate c: other.fieldPossible.keySet()){
+			this.fieldPossible.put(c, new HashSet<>(other.fieldPossible.get(c)));
+		}
+
+		this.startTime = -1;
+		this.stopTime = -1;
+	}
 	
 
 
 	// Commands
 	/**
-	 * Attempts to solve the Sudoku
+	 * Attempts to solve the Sudoku with all solving tricks, see TechniquePipeline.HUMAN_LIKE.
+	 * Twins and slings are only attempted in rounds in which no value was placed, solving stops once a round changes nothing.
 	 * @return Wheter or not the Soduku is solved.
 	 */
 	public boolean solve(){
+		return this.solve(TechniquePipeline.HUMAN_LIKE);
+	}
+
+	/**
+	 * Attempts to solve the Sudoku by applying the steps of the given pipeline
+	 * @param pipeline The order and rules in which the solving tricks are applied.
+	 * @return Wheter or not the Soduku is solved.
+	 */
+	public boolean solve(TechniquePipeline pipeline){
 		this.prepareSolve();
 
 		this.startTime = System.nanoTime();
-		// Attempt the solving tricks at most 81 times.
-		for(int i = 0; i < 81 && !this.solved; i++){
-			// Save the current state of the Sudoku so we can check wheter anything changes.
-			Sudoku oldSudoku = (Sudoku) this.sudoku.clone();
-
-			// Fill every field which only has one possibility
-			this.singlePossibility();
-
-			// Check if there is a value which is only possible on one field in a group.
-			this.attemptOnAllGroups(e -> this.singles(e));
-			
-			// Only attempt these methods when nothing has changed yet, since these are expensive
-			if(this.sudoku.equals(oldSudoku)){
-				this.attemptOnAllGroups(e -> this.twins(e));
-
-				if(this.sudoku.equals(oldSudoku)){
-					this.attemptOnAllGroups(e -> this.slings(e));
+		// Attempt the solving tricks until a round no longer changes anything.
+		boolean progress = true;
+		for(int i = 0; i < pipeline.getMaxRounds() && !this.solved && progress; i++){
+			// Count the possibilities so we can check wheter anything changes, they only ever decrease.
+			int roundStart = this.countPossibilities();
+			int current = roundStart;
+			int emptyAtStart = this.countEmpty();
+
+			for(TechniquePipeline.Step step: pipeline.getSteps()){
+				// Steps which are only attempted when stuck are skipped when this round already changed something.
+				boolean attempt;
+				switch(step.getEscalation()){
+					case WHEN_STUCK:
+						attempt = current == roundStart;
+						break;
+					case WHEN_NOTHING_PLACED:
+						attempt = this.countEmpty() == emptyAtStart;
+						break;
+					default:
+						attempt = true;
+				}
+
+				if(attempt){
+					Technique t = step.getTechnique();
+					this.apply(t);
+
+					int after = this.countPossibilities();
+					if(after != current && (this.hardest == null || t.compareTo(this.hardest) > 0)){
+						this.hardest = t;
+					}
+					current = after;
 				}
 			}
 
 			// TODO: Add a method to apply X-Wing tactic, adding this should be enough to finish solving the "6 stars" sudoku.
 
+			progress = current != roundStart;
 			this.checkSolved();
 		}
 
-		this.stopTime = System.nanoTime();;
+		// Finish the Sudoku by searching when the tricks are not enough
+		if(!this.solved && pipeline.usesSearch()){
+			this.adopt(SearchTask.search(new SudokuSolver(this), new AtomicReference<>()));
+		}
+
+		this.stopTime = System.nanoTime();
+		return this.isSolved();
+	}
+
+	/**
+	 * Solves the Sudoku by searching, where the search is split over the threads of the given pool.
+	 * Fills in what is possible with the cheap solving tricks, and then guesses every possibility of the field with the fewest possibilities.
+	 * Sudoku's which are solved by the solving tricks alone do not create any extra tasks.
+	 * @param pool The pool which runs the search.
+	 * @return Wheter or not the Sudoku is solved, this is only false if the Sudoku has no solution.
+	 */
+	public boolean solveParallel(ForkJoinPool pool){
+		this.prepareSolve();
+
+		this.startTime = System.nanoTime();
+		AtomicReference<SudokuSolver> found = new AtomicReference<>();
+		pool.invoke(new SearchTask(new SudokuSolver(this), found, 0, SearchTask.splitDepth(pool.getParallelism())));
+
+		this.adopt(found.get());
+
+		this.stopTime = System.nanoTime();
 		return this.isSolved();
 	}
 
+	/**
+	 * Solves the Sudoku by searching, using the common ForkJoinPool, see solveParallel(ForkJoinPool)
+	 * @return Wheter or not the Sudoku is solved.
+	 */
+	public boolean solveParallel(){
+		return this.solveParallel(ForkJoinPool.commonPool());
+	}
+
 
 
 	// Queries
@@ -112,6 +208,20 @@ public class SudokuSolver {
 		return this.solved;
 	}
 
+	/**
+	 * @return A copy of the Sudoku in its current state, which is the solution if the Sudoku is solved
+	 */
+	public Sudoku getSudoku(){
+		return (Sudoku) this.sudoku.clone();
+	}
+
+	/**
+	 * @return The hardest technique which made progress during the last solve, or null if the Sudoku needed no technique
+	 */
+	public Technique getHardestTechnique(){
+		return this.hardest;
+	}
+
 
 
 	// Helper methods
@@ -120,6 +230,8 @@ public class SudokuSolver {
 	 * Generates the list of possibilities for every field
 	 */
 	private void prepareSolve(){
+		this.hardest = null;
+
 		// A list which includes all posibilities.
 		HashSet<Integer> emptyList = new HashSet<>();
 		for(int i = 1; i <= 9; i++){
@@ -157,21 +269,9 @@ public class SudokuSolver {
 	private void setValue(short row, short col, short val){
 		this.fieldPossible.put(new Coordinate(row, col), new HashSet<>());
 		
-		// Remove possibility for every field in this row and col
-		for(int i = 0; i < 9; i++){
-			this.fieldPossible.get(new Coordinate(row, i)).remove((int) val);
-			this.fieldPossible.get(new Coordinate(i, col)).remove((int) val);
-		}
-		
-		// Remove possibility for every field in this block
-		int block = this.coordsToBlock(row, col);
-		int colStart = (block%3)*3;
-		int rowStart = (block/3)*3;
-		//System.out.println("(" + row + ", " + col + "), block: " + block + ", (" + rowStart + ", " + colStart + ")");
-		for(int r = rowStart; r < rowStart+3; r++){
-			for(int c = colStart; c < colStart+3; c++){
-				this.fieldPossible.get(new Coordinate(r, c)).remove((int) val);
-			}
+		// Remove possibility for every field which shares a unit with this field
+		for(Coordinate c: this.variant.getPeers(row, col)){
+			this.fieldPossible.get(c).remove((int) val);
 		}
 
 		// Set the value to the Sudoku object
@@ -194,15 +294,139 @@ public class SudokuSolver {
 	}
 
 	/**
-	 * Translates coordinates to the block ID, starting from the top left with 0, left to right, top to bottom
-	 * @param row The row of the field
-	 * @param col The column of the field
-	 * @return The ID of the block the field is in.
-	 * @require col >= 0 && col <= 8
-	 * @require row >= 0 && row <= 8
+	 * Applies the cheap solving tricks until they no longer change the Sudoku, used by the search between guesses.
+	 */
+	void propagate(){
+		boolean changed = true;
+		while(changed && !this.solved){
+			int old = this.countPossibilities();
+
+			this.apply(Technique.SINGLE_POSSIBILITY);
+			this.apply(Technique.SINGLES);
+			this.apply(Technique.CAGES);
+
+			this.checkSolved();
+			changed = this.countPossibilities() != old;
+		}
+	}
+
+	/**
+	 * Takes over the state of the given solver, used to take the solution found by the search
+	 * @param solution The solver which contains the solution, or null if there is no solution.
+	 */
+	private void adopt(SudokuSolver solution){
+		if(solution != null){
+			this.sudoku = solution.sudoku;
+			this.fieldPossible = solution.fieldPossible;
+		}
+		this.checkSolved();
+	}
+
+	/**
+	 * @return The amount of fields which do not have a value yet
+	 */
+	private int countEmpty(){
+		int result = 0;
+		for(short row = 0; row < 9; row++){
+			for(short col = 0; col < 9; col++){
+				if(this.sudoku.getVal(row, col) == 0){
+					result++;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return The total amount of possibilities of all fields, which decreases whenever a solving trick changes anything
+	 */
+	private int countPossibilities(){
+		int result = 0;
+		for(HashSet<Integer> poss: this.fieldPossible.values()){
+			result += poss.size();
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether the current state can no longer lead to a solution, which happens after a wrong guess.
+	 * @return True if a unit contains a value twice, a complete unit can no longer contain a value, a cage has the wrong sum or an empty field has no possibilities.
 	 */
-	private int coordsToBlock(int row, int col){
-		return (3*(row/3))+(col/3);
+	boolean isContradiction(){
+		for(Unit u: this.variant.getUnits()){
+			int placed = 0;
+			int possible = 0;
+			int sum = 0;
+			boolean full = true;
+			for(int i = 0; i < u.size(); i++){
+				Coordinate c = u.getField(i);
+				short val = this.sudoku.getVal((short) c.getX(), (short) c.getY());
+				if(val != 0){
+					if((placed & (1 << val)) != 0){
+						return true;
+					}
+					placed |= 1 << val;
+					sum += val;
+				}
+				else{
+					full = false;
+					HashSet<Integer> poss = this.fieldPossible.get(c);
+					if(poss.size() == 0){
+						return true;
+					}
+					for(int p: poss){
+						possible |= 1 << p;
+					}
+				}
+			}
+
+			// Every value 1 to 9 has to be placed or still be possible in a complete unit
+			if(u.isComplete() && (placed | possible) != 0x3FE){
+				return true;
+			}
+			if(full && u instanceof Cage && ((Cage) u).getSum() != sum){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return The empty field with the fewest possibilities, or null if there are no empty fields
+	 */
+	Coordinate mostConstrainedField(){
+		Coordinate result = null;
+		int fewest = Integer.MAX_VALUE;
+		for(Coordinate c: this.fieldPossible.keySet()){
+			int size = this.fieldPossible.get(c).size();
+			if(size > 0 && size < fewest && this.sudoku.getVal((short) c.getX(), (short) c.getY()) == 0){
+				result = c;
+				fewest = size;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the values which are still possible in the given field
+	 * @param c The Coordinate(row, col) of the field
+	 * @return The possible values, this set should not be changed.
+	 */
+	HashSet<Integer> getPossible(Coordinate c){
+		return this.fieldPossible.get(c);
+	}
+
+	/**
+	 * Creates a copy of this solver in which the given field is set to the given value, used to guess a value
+	 * @param c The Coordinate(row, col) of the field
+	 * @param val The value which is set
+	 * @return The new solver, this solver is not changed.
+	 * @require val >= 1 && val <= 9
+	 */
+	SudokuSolver branch(Coordinate c, int val){
+		SudokuSolver result = new SudokuSolver(this);
+		result.setValue((short) c.getX(), (short) c.getY(), (short) val);
+		return result;
 	}
 	
 	/**
@@ -221,6 +445,31 @@ public class SudokuSolver {
 
 
 	// Solve methods
+	/**
+	 * Applies a single solving trick to the whole Sudoku
+	 * @param t The technique which is applied.
+	 */
+	private void apply(Technique t){
+		switch(t){
+			case SINGLE_POSSIBILITY:
+				this.singlePossibility();
+				break;
+			case SINGLES:
+				// Check if there is a value which is only possible on one field in a group.
+				this.attemptOnAllGroups(e -> this.singles(e), true);
+				break;
+			case CAGES:
+				this.cages();
+				break;
+			case TWINS:
+				this.attemptOnAllGroups(e -> this.twins(e), true);
+				break;
+			case SLINGS:
+				this.attemptOnAllGroups(e -> this.slings(e), false);
+				break;
+		}
+	}
+
 	/**
 	 * Checks if there are any fields which have only one possibility, so we can set the value.
 	 */
@@ -239,31 +488,19 @@ public class SudokuSolver {
 	}
 
 	/**
-	 * Applies the given solver method to all possible groups in the Sudoku
+	 * Applies the given solver method to all units of the Sudoku variant
 	 * @param solver The solver which will be applied to field group
+	 * @param completeOnly Only apply the solver to units which contain every value, the solver relies on every value being present.
 	 */
-	private void attemptOnAllGroups(Function<HashMap<Integer, HashSet<Integer>>, HashMap<Integer, HashSet<Integer>>> solver){
+	private void attemptOnAllGroups(Function<HashMap<Integer, HashSet<Integer>>, HashMap<Integer, HashSet<Integer>>> solver, boolean completeOnly){
 		HashMap<Integer, HashSet<Integer>> possibilities;
 
-		// Perform the solver on all rows
-		for(int i = 0; i < 9; i++){
-			possibilities = this.getRowPossibilities(i);
-			possibilities = solver.apply(possibilities);
-			this.setRowPossibilities(i, possibilities);
-		}
-
-		// Perform the solver on all cols
-		for(int i = 0; i < 9; i++) {
-			possibilities = this.getColPossibilities(i);
-			possibilities = solver.apply(possibilities);
-			this.setColPossibilities(i, possibilities);
-		}
-
-		// Perform the solver on all blocks
-		for(int i = 0; i < 9; i++){
-			possibilities = this.getBlockPossibilities(i);
-			possibilities = solver.apply(possibilities);
-			this.setBlockPossibilities(i, possibilities);
+		for(Unit u: this.variant.getUnits()){
+			if(!completeOnly || u.isComplete()){
+				possibilities = this.getUnitPossibilities(u);
+				possibilities = solver.apply(possibilities);
+				this.setUnitPossibilities(u, possibilities);
+			}
 		}
 	}
 
@@ -425,72 +662,134 @@ public class SudokuSolver {
 
 
 	/**
-	 * Returns the possibilities of all values in the given column
+	 * Removes the values which can not complete the sum of a Killer cage from the fields in that cage.
+	 * Uses the precomputed combination tables of the cages.
 	 */
-	private HashMap<Integer, HashSet<Integer>> getColPossibilities(int col){
-		HashMap<Integer, HashSet<Integer>> result = new HashMap<>();
-
-		for(int row = 0; row < 9; row++)
-			result.put(row, this.fieldPossible.get(new Coordinate(row, col)));
+	private void cages(){
+		for(Cage cage: this.variant.getCages()){
+			int placedMask = 0;
+			int placedSum = 0;
+			int emptyCount = 0;
+			int candidates = 0;
+			for(int i = 0; i < cage.size(); i++){
+				Coordinate c = cage.getField(i);
+				short val = this.sudoku.getVal((short) c.getX(), (short) c.getY());
+				if(val != 0){
+					placedMask |= 1 << val;
+					placedSum += val;
+				}
+				else{
+					emptyCount++;
+					for(int p: this.fieldPossible.get(c)){
+						candidates |= 1 << p;
+					}
+				}
+			}
 
-		return result;
+			if(emptyCount > 0){
+				int allowed = cage.possibleValues(placedMask, placedSum, emptyCount, candidates);
+				for(int i = 0; i < cage.size(); i++){
+					this.fieldPossible.get(cage.getField(i)).removeIf(p -> (allowed & (1 << p)) == 0);
+				}
+			}
+		}
 	}
 
-	/**
-	 * Saves the given values to the correct fields of the given column
-	 */
-	private void setColPossibilities(int col, HashMap<Integer, HashSet<Integer>> poss){
-		for(int row = 0; row < 9; row++)
-			this.fieldPossible.put(new Coordinate(row, col), poss.get(row));
-	}
 
 	/**
-	 * Returns the possibilities of all values in the given row
+	 * Returns the possibilities of all fields in the given unit, using the index of the field in the unit as key
 	 */
-	private HashMap<Integer, HashSet<Integer>> getRowPossibilities(int row){
+	private HashMap<Integer, HashSet<Integer>> getUnitPossibilities(Unit unit){
 		HashMap<Integer, HashSet<Integer>> result = new HashMap<>();
 
-		for(int col = 0; col < 9; col++)
-			result.put(col, this.fieldPossible.get(new Coordinate(row, col)));
+		for(int i = 0; i < unit.size(); i++)
+			result.put(i, this.fieldPossible.get(unit.getField(i)));
 
 		return result;
 	}
 
 	/**
-	 * Saves the given values to the correct fields of the given row
+	 * Saves the given values to the correct fields of the given unit
 	 */
-	private void setRowPossibilities(int row, HashMap<Integer, HashSet<Integer>> poss){
-		for(int col = 0; col < 9; col++)
-			this.fieldPossible.put(new Coordinate(row, col), poss.get(col));
+	private void setUnitPossibilities(Unit unit, HashMap<Integer, HashSet<Integer>> poss){
+		for(int i = 0; i < unit.size(); i++)
+			this.fieldPossible.put(unit.getField(i), poss.get(i));
 	}
 
+
+
+	// Output
 	/**
-	 * Returns the possibilities of all values in the given block
+	 * Writes the original and the current Sudoku side by side, followed by the possibilities of the unknown fields.
+	 * This is the same as toString()
+	 * @param out The output to write to.
+	 * @throws IOException If the output throws an IOException.
 	 */
-	private HashMap<Integer, HashSet<Integer>> getBlockPossibilities(int block){
-		HashMap<Integer, HashSet<Integer>> result = new HashMap<>();
+	public void appendTo(Appendable out) throws IOException{
+		// Display both original and "solved" sudoku side by side.
+		for(int line = 0; line < Sudoku.GRID_LINES; line++){
+			this.startSudoku.appendGridLine(out, line);
+			out.append(' ').append(' ').append(' ');
+			this.sudoku.appendGridLine(out, line);
+			out.append('\n');
+		}
 
-		int i = 0;
-		for(int row = (block/3)*3; row < ((block/3)+1)*3; row++){
-			for(int col = (block%3)*3; col < ((block%3)+1)*3; col++){
-				result.put(i, this.fieldPossible.get(new Coordinate(row, col)));
-				i++;
+		// Display possibilities of unknown fields.
+		this.appendPossibilities(out);
+	}
+
+	/**
+	 * Writes the possibilities of every unknown field to the given output, one field per line in the form "row, col: [1, 2]".
+	 * Every field is preceded by a newline.
+	 * @param out The output to write to.
+	 * @throws IOException If the output throws an IOException.
+	 */
+	public void appendPossibilities(Appendable out) throws IOException{
+		for(Coordinate c: this.fieldPossible.keySet()){
+			HashSet<Integer> poss = this.fieldPossible.get(c);
+			if(poss.size() > 0){
+				out.append('\n').append((char) ('0' + c.getX())).append(',').append(' ').append((char) ('0' + c.getY()));
+				out.append(':').append(' ').append('[');
+				boolean first = true;
+				for(int val = 1; val <= 9; val++){
+					if(poss.contains(val)){
+						if(!first){
+							out.append(',').append(' ');
+						}
+						out.append((char) ('0' + val));
+						first = false;
+					}
+				}
+				out.append(']');
 			}
 		}
+	}
 
-		return result;
+	/**
+	 * Writes the same output as appendTo() as ASCII into the given buffer
+	 * @param buffer The buffer to write to.
+	 * @throws java.nio.BufferOverflowException If the buffer does not have enough space left.
+	 */
+	public void writeTo(ByteBuffer buffer){
+		try {
+			this.appendTo(new ByteBufferAppender(buffer));
+		}
+		catch (IOException e) {
+			// A ByteBufferAppender never throws an IOException
+		}
 	}
 
 	/**
-	 * Saves the given values to the correct fields of the given block
+	 * Writes the same output as appendPossibilities() as ASCII into the given buffer
+	 * @param buffer The buffer to write to.
+	 * @throws java.nio.BufferOverflowException If the buffer does not have enough space left.
 	 */
-	private void setBlockPossibilities(int block, HashMap<Integer, HashSet<Integer>> poss){
-		int i = 0;
-		for(int row = (block/3)*3; row < ((block/3)+1)*3; row++){
-			for(int col = (block%3)*3; col < ((block%3)+1)*3; col++) {
-				this.fieldPossible.put(new Coordinate(row, col), poss.get(i));
-				i++;
-			}
+	public void writePossibilities(ByteBuffer buffer){
+		try {
+			this.appendPossibilities(new ByteBufferAppender(buffer));
+		}
+		catch (IOException e) {
+			// A ByteBufferAppender never throws an IOException
 		}
 	}
 
@@ -499,23 +798,15 @@ public class SudokuSolver {
 	// Overrides
 	@Override
 	public String toString(){
-		// Display both original and "solved" sudoku side by side.
-		String result = "";
-		String[] start = this.startSudoku.toString().split("\\r?\\n");
-		String[] finished = this.sudoku.toString().split("\\r?\\n");
-		for(int i = 0; i < start.length; i++){
-			result = result + start[i] + "   " + finished[i] + "\n";
+		StringBuilder result = new StringBuilder(Sudoku.GRID_LINES*(2*Sudoku.GRID_WIDTH+4));
+		try {
+			this.appendTo(result);
 		}
-
-		// Display possibilities of unknown fields.
-		for(Coordinate c: this.fieldPossible.keySet()){
-			HashSet<Integer> poss = this.fieldPossible.get(c);
-			if(poss.size() > 0){
-				result += "\n" + c.toString() + ": " + poss.toString();
-			}
+		catch (IOException e) {
+			// A StringBuilder never throws an IOException
 		}
 
-		return result;
+		return result.toString();
 	}
 
 
@@ -548,6 +839,11 @@ public class SudokuSolver {
 			}
 			System.out.println("Tijd: " + ss.getTimeNeeded() + " seconden");
 			System.out.println(ss);
+
+			// Solve it again by searching in parallel
+			SudokuSolver ps = new SudokuSolver(s);
+			System.out.println("Parallel " + (ps.solveParallel() ? "opgelost" : "niet opgelost") + ", tijd: " + ps.getTimeNeeded() + " seconden");
+			System.out.println();
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package sudoku.solver;
+
+/**
+ * The solving tricks the SudokuSolver can apply, ordered from the cheapest and easiest to the most expensive and hardest.
+ * @author Aeilko Bos
+ */
+public enum Technique {
+	// Fill every field which only has one possibility
+	SINGLE_POSSIBILITY,
+	// Find a value which is only possible on one field in a unit
+	SINGLES,
+	// Remove the values which do not fit the sum of a Killer cage
+	CAGES,
+	// Find two values which are only possible on the same two fields in a unit
+	TWINS,
+	// Find a group of fields in a unit which together can only contain as many values as there are fields
+	SLINGS
+}
\ No newline at end of file
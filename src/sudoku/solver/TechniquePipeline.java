@@ -0,0 +1,203 @@
+package sudoku.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The order in which the SudokuSolver applies its solving tricks, and when it gives up.
+ * Every round the steps are attempted in order, a step is only attempted if its escalation rule allows it.
+ * The solver stops when the Sudoku is solved, when a round makes no progress, or after the maximum amount of rounds.
+ * If the Sudoku is not solved by then, it can optionally be finished by searching.
+ * Pipelines can not be changed, with() creates a new pipeline, so they can safely be shared by many threads.
+ * @author Aeilko Bos
+ */
+public class TechniquePipeline {
+	/**
+	 * When a step is attempted
+	 */
+	public enum Escalation {
+		// Attempt the step every round
+		ALWAYS,
+		// Only attempt the step if the earlier steps of this round made no progress, neither placed a value nor removed a possibility
+		WHEN_STUCK,
+		// Only attempt the step if the earlier steps of this round placed no value, even if they removed possibilities
+		WHEN_NOTHING_PLACED
+	}
+
+	/**
+	 * A step of a pipeline, the technique which is applied and when it is attempted
+	 */
+	public static final class Step {
+		private final Technique technique;
+		private final Escalation escalation;
+
+		/**
+		 * Creates a new step
+		 * @param t The technique which is applied in this step.
+		 * @param e When the step is attempted.
+		 */
+		public Step(Technique t, Escalation e){
+			this.technique = t;
+			this.escalation = e;
+		}
+
+		/**
+		 * @return The technique which is applied in this step
+		 */
+		public Technique getTechnique(){
+			return this.technique;
+		}
+
+		/**
+		 * @return When the step is attempted
+		 */
+		public Escalation getEscalation(){
+			return this.escalation;
+		}
+
+		@Override
+		public String toString(){
+			switch(this.escalation){
+				case WHEN_STUCK:
+					return this.technique + "?";
+				case WHEN_NOTHING_PLACED:
+					return this.technique + "*";
+				default:
+					return this.technique.toString();
+			}
+		}
+	}
+
+	// Only the cheap tricks, followed by searching. The fastest way to get a solution.
+	public static final TechniquePipeline FASTEST = new TechniquePipeline("fastest", 81, true)
+		.with(Technique.SINGLE_POSSIBILITY, Escalation.ALWAYS)
+		.with(Technique.SINGLES, Escalation.ALWAYS)
+		.with(Technique.CAGES, Escalation.ALWAYS);
+
+	// All tricks, where the expensive tricks are only attempted when the cheap tricks placed no value. This is the default of solve().
+	// This is the order solve() always used, CAGES does nothing for Sudoku's without cages.
+	public static final TechniquePipeline HUMAN_LIKE = new TechniquePipeline("human-like", 81, false)
+		.with(Technique.SINGLE_POSSIBILITY, Escalation.ALWAYS)
+		.with(Technique.SINGLES, Escalation.ALWAYS)
+		.with(Technique.CAGES, Escalation.ALWAYS)
+		.with(Technique.TWINS, Escalation.WHEN_NOTHING_PLACED)
+		.with(Technique.SLINGS, Escalation.WHEN_NOTHING_PLACED);
+
+	// Every trick is only attempted when all easier tricks do not help, so the hardest trick which was needed tells how difficult the Sudoku is.
+	public static final TechniquePipeline RATING = new TechniquePipeline("rating", 729, false)
+		.with(Technique.SINGLE_POSSIBILITY, Escalation.ALWAYS)
+		.with(Technique.SINGLES, Escalation.WHEN_STUCK)
+		.with(Technique.CAGES, Escalation.WHEN_STUCK)
+		.with(Technique.TWINS, Escalation.WHEN_STUCK)
+		.with(Technique.SLINGS, Escalation.WHEN_STUCK);
+
+	// The name of this pipeline
+	private String name;
+	// The maximum amount of rounds
+	private int maxRounds;
+	// Whether or not to search when the tricks do not solve the Sudoku
+	private boolean search;
+	// The steps, in order, this list can not be changed
+	private List<Step> steps;
+
+
+
+	// Constructor
+	/**
+	 * Creates a new pipeline without any steps
+	 * @param name The name of the pipeline.
+	 * @param maxRounds The maximum amount of rounds.
+	 * @param search Whether or not to search when the tricks do not solve the Sudoku.
+	 * @require maxRounds >= 1
+	 */
+	public TechniquePipeline(String name, int maxRounds, boolean search){
+		this(name, maxRounds, search, Collections.<Step>emptyList());
+	}
+
+	/**
+	 * Creates a new pipeline with the given steps
+	 */
+	private TechniquePipeline(String name, int maxRounds, boolean search, List<Step> steps){
+		this.name = name;
+		this.maxRounds = maxRounds;
+		this.search = search;
+		this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+	}
+
+
+
+	// Factories
+	/**
+	 * Creates a new pipeline with the steps of this pipeline and the given step at the end, this pipeline is not changed
+	 * @param t The technique which is applied in the new step.
+	 * @param e When the new step is attempted.
+	 * @return The new pipeline, so calls can be chained.
+	 */
+	public TechniquePipeline with(Technique t, Escalation e){
+		List<Step> result = new ArrayList<>(this.steps);
+		result.add(new Step(t, e));
+		return new TechniquePipeline(this.name, this.maxRounds, this.search, result);
+	}
+
+
+
+	// Queries
+	/**
+	 * @return The name of this pipeline
+	 */
+	public String getName(){
+		return this.name;
+	}
+
+	/**
+	 * @return The maximum amount of rounds
+	 */
+	public int getMaxRounds(){
+		return this.maxRounds;
+	}
+
+	/**
+	 * @return Whether or not to search when the tricks do not solve the Sudoku
+	 */
+	public boolean usesSearch(){
+		return this.search;
+	}
+
+	/**
+	 * @return The amount of steps in this pipeline
+	 */
+	public int size(){
+		return this.steps.size();
+	}
+
+	/**
+	 * @return The steps, in order, this list can not be changed
+	 */
+	public List<Step> getSteps(){
+		return this.steps;
+	}
+
+	/**
+	 * Returns the given step
+	 * @param step The index of the step
+	 * @require step >= 0 && step < size()
+	 */
+	public Step getStep(int step){
+		return this.steps.get(step);
+	}
+
+
+	// Override's
+	@Override
+	public String toString(){
+		StringBuilder result = new StringBuilder(this.name).append(':');
+		for(Step step: this.steps){
+			result.append(' ').append(step);
+		}
+		if(this.search){
+			result.append(" SEARCH");
+		}
+		return result.toString();
+	}
+}
\ No newline at end of file
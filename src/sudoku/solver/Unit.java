@@ -0,0 +1,74 @@
+package sudoku.solver;
+
+import java.util.Arrays;
+
+import sudoku.Coordinate;
+
+/**
+ * A group of fields in which every value can occur at most once, like a row, column, block, diagonal or cage.
+ * @author Aeilko Bos
+ */
+public class Unit {
+	// The fields in this unit, using Coordinate(row, col)
+	private Coordinate[] fields;
+
+
+	// Constructor
+	/**
+	 * Creates a new unit which consists of the given fields
+	 * @param fields The fields in this unit, using Coordinate(row, col).
+	 * @require fields.length >= 1 && fields.length <= 9
+	 * @require no field occurs more than once
+	 */
+	public Unit(Coordinate... fields){
+		this.fields = fields.clone();
+	}
+
+
+	// Queries
+	/**
+	 * @return The number of fields in this unit
+	 */
+	public int size(){
+		return this.fields.length;
+	}
+
+	/**
+	 * Returns the field with the given index
+	 * @param i The index of the field
+	 * @return The Coordinate(row, col) of the field.
+	 * @require i >= 0 && i < size()
+	 */
+	public Coordinate getField(int i){
+		return this.fields[i];
+	}
+
+	/**
+	 * @return Whether or not this unit contains every value exactly once, which is the case for units of 9 fields
+	 */
+	public boolean isComplete(){
+		return this.fields.length == 9;
+	}
+
+	/**
+	 * Checks whether the given field is part of this unit
+	 * @param row The row of the field
+	 * @param col The column of the field
+	 * @return Whether or not the field is in this unit.
+	 */
+	public boolean contains(int row, int col){
+		for(Coordinate c: this.fields){
+			if(c.getX() == row && c.getY() == col){
+				return true;
+			}
+		}
+		return false;
+	}
+
+
+	// Override's
+	@Override
+	public String toString(){
+		return Arrays.toString(this.fields);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,215 @@
+package sudoku.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+import sudoku.Coordinate;
+
+/**
+ * The set of units which define a Sudoku variant, like the normal rows, columns and blocks, diagonals, irregular blocks or Killer cages.
+ * The fields which share a unit with a field are calculated once, so the solver does not have to look them up while solving.
+ * @author Aeilko Bos
+ */
+public class Variant {
+	// The normal Sudoku with rows, columns and 3x3 blocks
+	public static final Variant STANDARD = new Variant(Arrays.asList(Variant.standardUnits(null)));
+
+	// All units in this variant
+	private List<Unit> units;
+	// The units which are a Killer cage
+	private List<Cage> cages;
+
+	// A 64 bit fingerprint of the units, used to tell variants apart in the SolutionCache
+	private long fingerprint;
+
+	// The fields which share at least one unit with a field, excluding the field itself
+	// The array uses this structure: peers[row][col]
+	private Coordinate[][][] peers;
+
+
+
+	// Constructor
+	/**
+	 * Creates a new variant which consists of the given units
+	 * @param units The units of this variant.
+	 */
+	public Variant(List<Unit> units){
+		this.units = Collections.unmodifiableList(new ArrayList<>(units));
+
+		List<Cage> cages = new ArrayList<>();
+		for(Unit u: this.units){
+			if(u instanceof Cage){
+				cages.add((Cage) u);
+			}
+		}
+		this.cages = Collections.unmodifiableList(cages);
+
+		this.peers = new Coordinate[9][9][];
+		for(int row = 0; row < 9; row++){
+			for(int col = 0; col < 9; col++){
+				TreeSet<Coordinate> fieldPeers = new TreeSet<>();
+				for(Unit u: this.units){
+					if(u.contains(row, col)){
+						for(int i = 0; i < u.size(); i++){
+							fieldPeers.add(u.getField(i));
+						}
+					}
+				}
+				fieldPeers.remove(new Coordinate(row, col));
+				this.peers[row][col] = fieldPeers.toArray(new Coordinate[0]);
+			}
+		}
+
+		// Every unit adds its cage sum (0 if it is no cage) and its fields, and is closed by a marker which is never a field.
+		long h = 0xcbf29ce484222325L;
+		for(Unit u: this.units){
+			h = (h ^ (u instanceof Cage ? ((Cage) u).getSum() : 0)) * 0x100000001b3L;
+			for(int i = 0; i < u.size(); i++){
+				h = (h ^ (u.getField(i).getX()*9 + u.getField(i).getY())) * 0x100000001b3L;
+			}
+			h = (h ^ 0xFF) * 0x100000001b3L;
+		}
+		this.fingerprint = h;
+	}
+
+
+
+	// Factories
+	/**
+	 * @return The normal Sudoku variant with rows, columns and blocks
+	 */
+	public static Variant standard(){
+		return Variant.STANDARD;
+	}
+
+	/**
+	 * @return Sudoku-X, in which both diagonals also have to contain every value
+	 */
+	public static Variant diagonal(){
+		return Variant.STANDARD.with(Variant.diagonalUnits());
+	}
+
+	/**
+	 * Creates a jigsaw Sudoku, in which the blocks are replaced by irregular regions
+	 * @param regions The region ID of every field, using regions[row][col].
+	 * @return The jigsaw variant.
+	 * @require regions.length == 9 && for(int i = 0; i < 9; i++) regions[i].length == 9
+	 * @require every region ID between 0 and 8 occurs exactly 9 times
+	 */
+	public static Variant jigsaw(int[][] regions){
+		return new Variant(Arrays.asList(Variant.standardUnits(regions)));
+	}
+
+	/**
+	 * Creates a Killer Sudoku, a normal Sudoku with additional cages
+	 * @param cages The cages of the Sudoku.
+	 * @return The Killer variant.
+	 */
+	public static Variant killer(Cage... cages){
+		return Variant.STANDARD.with(cages);
+	}
+
+	/**
+	 * Creates a new variant with the units of this variant and the given extra units, for example to create a Killer Sudoku-X
+	 * @param extra The units which are added.
+	 * @return The new variant.
+	 */
+	public Variant with(Unit... extra){
+		List<Unit> result = new ArrayList<>(this.units);
+		for(Unit u: extra){
+			result.add(u);
+		}
+		return new Variant(result);
+	}
+
+
+
+	// Queries
+	/**
+	 * @return All units in this variant
+	 */
+	public List<Unit> getUnits(){
+		return this.units;
+	}
+
+	/**
+	 * @return The units in this variant which are a Killer cage
+	 */
+	public List<Cage> getCages(){
+		return this.cages;
+	}
+
+	/**
+	 * Returns the fields which share at least one unit with the given field
+	 * @param row The row of the field
+	 * @param col The column of the field
+	 * @return The Coordinate(row, col) of every related field, excluding the given field. This array is shared and should not be changed.
+	 * @require row >= 0 && row <= 8
+	 * @require col >= 0 && col <= 8
+	 */
+	Coordinate[] getPeers(int row, int col){
+		return this.peers[row][col];
+	}
+
+
+
+	/**
+	 * @return A 64 bit fingerprint of the units, variants with the same units in the same order have the same fingerprint
+	 */
+	long getFingerprint(){
+		return this.fingerprint;
+	}
+
+
+
+	// Helper methods
+	/**
+	 * Creates the rows, columns and blocks of a Sudoku
+	 * @param regions The region ID per field using regions[row][col], or null to use the normal 3x3 blocks.
+	 */
+	private static Unit[] standardUnits(int[][] regions){
+		Unit[] result = new Unit[27];
+
+		for(int i = 0; i < 9; i++){
+			Coordinate[] row = new Coordinate[9];
+			Coordinate[] col = new Coordinate[9];
+			for(int j = 0; j < 9; j++){
+				row[j] = new Coordinate(i, j);
+				col[j] = new Coordinate(j, i);
+			}
+			result[i] = new Unit(row);
+			result[9+i] = new Unit(col);
+		}
+
+		// Blocks are numbered from the top left with 0, left to right, top to bottom
+		Coordinate[][] blocks = new Coordinate[9][9];
+		int[] filled = new int[9];
+		for(int row = 0; row < 9; row++){
+			for(int col = 0; col < 9; col++){
+				int block = (regions != null ? regions[row][col] : (3*(row/3))+(col/3));
+				blocks[block][filled[block]++] = new Coordinate(row, col);
+			}
+		}
+		for(int i = 0; i < 9; i++){
+			result[18+i] = new Unit(blocks[i]);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Creates both diagonals of a Sudoku
+	 */
+	private static Unit[] diagonalUnits(){
+		Coordinate[] main = new Coordinate[9];
+		Coordinate[] anti = new Coordinate[9];
+		for(int i = 0; i < 9; i++){
+			main[i] = new Coordinate(i, i);
+			anti[i] = new Coordinate(i, 8-i);
+		}
+		return new Unit[]{new Unit(main), new Unit(anti)};
+	}
+}
\ No newline at end of file